@@ -13,11 +13,40 @@ Tongol, Kathleen Faye Z.
 // FINALS MODIFICATION - Added Swing GUI components and TXT file save/load functionality
 import java.awt.*;
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 // abstract class for resume sections
 abstract class ResumeSection {
@@ -61,6 +90,10 @@ class Education extends ResumeSection {
         this.yearOfGraduation = yearOfGraduation;
     }
 
+    public String getDegree() { return degree; }
+    public String getInstitution() { return institution; }
+    public int getYearOfGraduation() { return yearOfGraduation; }
+
     @Override
     public String toString() {
         return degree + " | " + institution + " | " + yearOfGraduation;
@@ -82,6 +115,9 @@ class Experience extends ResumeSection {
         this.description = description;
     }
 
+    public String getRole() { return role; }
+    public String getCompany() { return company; }
+    public String getDuration() { return duration; }
     public String getDescription() { return description; }
 
     @Override
@@ -102,6 +138,8 @@ class AcademicEducation extends Education {
     public AcademicEducation(String degree, String institution, int yearOfGraduation) {
         this(degree, institution, yearOfGraduation, "");
     }
+
+    public String getHonors() { return honors; }
     
     @Override
     public String toString() {
@@ -119,12 +157,162 @@ class Skill extends ResumeSection {
         this.name = name;
     }
 
+    public String getName() { return name; }
+
     @Override
     public String toString() {
         return "- " + name;
     }
 }
 
+// maps raw skill names ("JS", "java script") to one canonical name and suggests fixes for typos ("Javascrpt")
+class SkillNormalizer {
+    private static final String[] CANONICAL_SKILLS = {
+        "Java", "JavaScript", "TypeScript", "Python", "C", "C++", "C#", "Go", "Rust",
+        "Kotlin", "Swift", "PHP", "Ruby", "R", "MATLAB", "SQL", "MySQL", "PostgreSQL",
+        "MongoDB", "HTML", "CSS", "React", "Angular", "Vue.js", "Node.js", "Spring Boot",
+        "Django", "Flask", "Git", "Docker", "Kubernetes", "AWS", "Azure", "Linux",
+        "Machine Learning", "Data Analysis", "Microsoft Excel", "Microsoft Word",
+        "Microsoft PowerPoint", "Adobe Photoshop", "Figma", "Project Management",
+        "Communication", "Leadership", "Teamwork", "Problem Solving", "Public Speaking"
+    };
+
+    // short forms that are too far from the canonical name for typo matching
+    private static final String[][] ALIASES = {
+        {"js", "JavaScript"}, {"ecmascript", "JavaScript"}, {"ts", "TypeScript"},
+        {"py", "Python"}, {"golang", "Go"}, {"cpp", "C++"}, {"csharp", "C#"},
+        {"postgres", "PostgreSQL"}, {"mongo", "MongoDB"}, {"html5", "HTML"},
+        {"css3", "CSS"}, {"reactjs", "React"}, {"angularjs", "Angular"},
+        {"vue", "Vue.js"}, {"node", "Node.js"}, {"spring", "Spring Boot"},
+        {"k8s", "Kubernetes"}, {"amazonwebservices", "AWS"}, {"ml", "Machine Learning"},
+        {"excel", "Microsoft Excel"}, {"msexcel", "Microsoft Excel"},
+        {"word", "Microsoft Word"}, {"msword", "Microsoft Word"},
+        {"powerpoint", "Microsoft PowerPoint"}, {"photoshop", "Adobe Photoshop"}
+    };
+
+    private final Map<String, String> exact = new HashMap<>();
+    private final BKTree typoIndex = new BKTree();
+
+    public SkillNormalizer() {
+        for (String skill : CANONICAL_SKILLS) {
+            String key = toKey(skill);
+            exact.put(key, skill);
+            typoIndex.add(key);
+        }
+        for (String[] alias : ALIASES) {
+            exact.put(toKey(alias[0]), alias[1]);
+        }
+    }
+
+    // returns the canonical name for an exact or alias match, or null if there is none
+    public String canonical(String rawName) {
+        String key = toKey(rawName.trim());
+        return key.isEmpty() ? null : exact.get(key);
+    }
+
+    // returns a close canonical name for a likely typo, or null; this can also hit a
+    // real, different skill ("Jython" -> "Python"), so callers must let the user confirm it
+    public String suggest(String rawName) {
+        String key = toKey(rawName.trim());
+        if (key.isEmpty() || exact.containsKey(key)) {
+            return null;
+        }
+
+        // short keys like "go" or "r" would match almost anything with a typo allowance
+        int maxDistance = key.length() <= 4 ? 0 : (key.length() <= 8 ? 1 : 2);
+        String closest = typoIndex.findClosest(key, maxDistance);
+        return closest != null ? exact.get(closest) : null;
+    }
+
+    // lowercase and drop spaces, dots and hyphens so "Node.js" and "node js" share a key
+    static String toKey(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if (c != ' ' && c != '.' && c != '-' && c != '_') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // Levenshtein distance with two rolling rows
+    static int editDistance(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    // BK-tree so a lookup only visits nodes that can be within maxDistance
+    private static class BKTree {
+        private static class Node {
+            final String word;
+            final Map<Integer, Node> children = new HashMap<>();
+            Node(String word) { this.word = word; }
+        }
+
+        private Node root;
+
+        void add(String word) {
+            if (root == null) {
+                root = new Node(word);
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int d = editDistance(word, node.word);
+                if (d == 0) {
+                    return;
+                }
+                Node child = node.children.get(d);
+                if (child == null) {
+                    node.children.put(d, new Node(word));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        String findClosest(String word, int maxDistance) {
+            if (root == null || maxDistance <= 0) {
+                return null;
+            }
+            String best = null;
+            int bestDistance = maxDistance + 1;
+            ArrayDeque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                int d = editDistance(word, node.word);
+                if (d < bestDistance) {
+                    best = node.word;
+                    bestDistance = d;
+                }
+                int limit = Math.min(bestDistance, maxDistance);
+                for (Map.Entry<Integer, Node> e : node.children.entrySet()) {
+                    if (Math.abs(e.getKey() - d) <= limit) {
+                        stack.push(e.getValue());
+                    }
+                }
+            }
+            return best;
+        }
+    }
+}
+
 // main resume class
 class Resume {
     private PersonalInfo personalInfo;
@@ -212,18 +400,121 @@ class Resume {
     }
 }
 
+// finds verbs in free text regardless of inflection ("led", "leads", "leading" -> "lead")
+class VerbMatcher {
+    // irregular forms the suffix rules can't handle
+    static final String[][] ENGLISH_LEMMAS = {
+        {"led", "lead"}, {"built", "build"}, {"ran", "run"}, {"won", "win"},
+        {"taught", "teach"}, {"wrote", "write"}, {"written", "write"},
+        {"drove", "drive"}, {"driven", "drive"}, {"grew", "grow"}, {"grown", "grow"},
+        {"began", "begin"}, {"begun", "begin"}, {"sold", "sell"}, {"made", "make"}
+    };
+
+    private static final int MAX_CACHED_STEMS = 10_000;
+
+    private final Map<String, String> lemmas = new HashMap<>();
+    private final Set<String> verbStems = new HashSet<>();
+    // shared by batch worker threads; cleared when full so it stays bounded
+    private final Map<String, String> stemCache = new ConcurrentHashMap<>();
+
+    public VerbMatcher(String[] verbs, String[][] lemmaTable) {
+        for (String[] entry : lemmaTable) {
+            lemmas.put(entry[0], entry[1]);
+        }
+        for (String verb : verbs) {
+            verbStems.add(stem(verb.toLowerCase()));
+        }
+    }
+
+    public boolean containsAny(String text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetter(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && Character.isLetter(text.charAt(i))) {
+                i++;
+            }
+            if (i > start && verbStems.contains(cachedStem(text.substring(start, i).toLowerCase()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cachedStem(String word) {
+        String cached = stemCache.get(word);
+        if (cached != null) {
+            return cached;
+        }
+        String result = stem(word);
+        if (stemCache.size() >= MAX_CACHED_STEMS) {
+            stemCache.clear();
+        }
+        stemCache.put(word, result);
+        return result;
+    }
+
+    // light Porter-style stemmer: only strips the verb endings -s, -es, -ies, -ed, -ied and -ing
+    String stem(String word) {
+        String lemma = lemmas.get(word);
+        if (lemma != null) {
+            word = lemma;
+        }
+
+        if (word.length() > 4 && (word.endsWith("ies") || word.endsWith("ied"))) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+
+        String base = word;
+        boolean strippedSuffix = false;
+        if (word.length() > 5 && word.endsWith("ing")) {
+            base = word.substring(0, word.length() - 3);
+            strippedSuffix = true;
+        } else if (word.length() > 4 && word.endsWith("ed")) {
+            base = word.substring(0, word.length() - 2);
+            strippedSuffix = true;
+        } else if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            base = word.substring(0, word.length() - 1);
+        }
+
+        // "planned" -> "plann" -> "plan"
+        int n = base.length();
+        if (strippedSuffix && n > 2 && base.charAt(n - 1) == base.charAt(n - 2)
+                && "aeioulsz".indexOf(base.charAt(n - 1)) < 0) {
+            base = base.substring(0, n - 1);
+        }
+
+        // "create", "created" and "creating" all become "creat"
+        if (base.length() > 3 && base.endsWith("e")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        return base;
+    }
+}
+
 // analyzer class
 class ResumeAnalyzer {
     private static final String[] ACTION_VERBS = {
         "developed", "led", "implemented", "created", "designed",
         "managed", "improved", "analyzed", "built"
     };
+    // matches on stems, so "managing", "leads" and "designing" count too
+    private static final VerbMatcher VERB_MATCHER = new VerbMatcher(ACTION_VERBS, VerbMatcher.ENGLISH_LEMMAS);
+    static final int TOTAL_CHECKS = 5;
 
     public void analyze(Resume resume) {
+        analyze(resume, System.out);
+    }
+
+    // writes the analysis to the given stream and returns the score, so batch runs can use it from many threads
+    public int analyze(Resume resume, PrintStream out) {
         int score = 0;
-        int totalChecks = 5;
+        int totalChecks = TOTAL_CHECKS;
 
-        System.out.println("\n============================= RESUME ANALYSIS =============================\n");
+        out.println("\n============================= RESUME ANALYSIS =============================\n");
 
         List<ResumeSection> sections = resume.getSections();
 
@@ -233,46 +524,39 @@ class ResumeAnalyzer {
         long skillCount = sections.stream().filter(s -> s instanceof Skill).count();
 
         if (hasEducation) {
-            System.out.println("- Education section present.");
+            out.println("- Education section present.");
             score++;
         } else {
-            System.out.println("- Missing Education section.");
+            out.println("- Missing Education section.");
         }
 
         if (hasExperience) {
-            System.out.println("- Experience section present.");
+            out.println("- Experience section present.");
             score++;
         } else {
-            System.out.println("- Missing Experience section.");
+            out.println("- Missing Experience section.");
         }
 
         if (skillCount >= 5) {
-            System.out.println("- Skills section has 5 or more skills (" + skillCount + " skills).");
+            out.println("- Skills section has 5 or more skills (" + skillCount + " skills).");
             score++;
         } else if (skillCount > 0) {
-            System.out.println("- Skills section present but needs at least 5 skills (currently " + skillCount + " skills).");
+            out.println("- Skills section present but needs at least 5 skills (currently " + skillCount + " skills).");
         } else {
-            System.out.println("- Missing Skills section.");
+            out.println("- Missing Skills section.");
         }
 
         // --- Action verbs in Experience (1 point) ---
         boolean hasActionVerb = sections.stream()
             .filter(s -> s instanceof Experience)
             .map(s -> (Experience) s)
-            .anyMatch(ex -> {
-                for (String verb : ACTION_VERBS) {
-                    if (ex.getDescription().toLowerCase().contains(verb)) {
-                        return true;
-                    }
-                }
-                return false;
-            });
+            .anyMatch(ex -> VERB_MATCHER.containsAny(ex.getDescription()));
         if (hasActionVerb) {
-            System.out.println("- Experience descriptions include action verbs.");
+            out.println("- Experience descriptions include action verbs.");
             score++;
         } else {
-            System.out.println("- Consider adding action verbs to experience descriptions.");
-            System.out.println("  Examples: developed, led, implemented, created, designed, managed, improved, analyzed, built");
+            out.println("- Consider adding action verbs to experience descriptions.");
+            out.println("  Examples: developed, led, implemented, created, designed, managed, improved, analyzed, built");
         }
 
         // --- Achievements (numbers in Experience) (1 point) ---
@@ -281,15 +565,926 @@ class ResumeAnalyzer {
             .map(s -> (Experience) s)
             .anyMatch(ex -> ex.getDescription().matches(".*\\d+.*"));
         if (hasAchievement) {
-            System.out.println("- Resume includes measurable achievements.");
+            out.println("- Resume includes measurable achievements.");
             score++;
         } else {
-            System.out.println("- Consider adding measurable achievements (numbers, percentages).");
-            System.out.println("  Examples: 'improved performance by 30%', 'managed team of 5', 'processed 100+ orders daily'");
+            out.println("- Consider adding measurable achievements (numbers, percentages).");
+            out.println("  Examples: 'improved performance by 30%', 'managed team of 5', 'processed 100+ orders daily'");
         }
 
         // Final Score
-        System.out.println("\nResume Score: " + score + "/" + totalChecks);
+        out.println("\nResume Score: " + score + "/" + totalChecks);
+        return score;
+    }
+}
+
+// reads back a resume saved with "Save to TXT" (the getFormattedResume() layout)
+class ResumeTextParser {
+    public static Resume parse(File file) throws IOException {
+        Resume resume = new Resume();
+        String name = "", contact = "", email = "";
+        String section = "";
+        String pendingExperience = null;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("+") || line.startsWith("|") || line.startsWith("---")) {
+                    continue;
+                }
+                if (line.startsWith("Name: ")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("Contact: ")) {
+                    contact = line.substring(9);
+                } else if (line.startsWith("Email: ")) {
+                    email = line.substring(7);
+                } else if (line.equals("EDUCATION") || line.equals("EXPERIENCE") || line.equals("SKILL")) {
+                    section = line;
+                } else if (line.trim().isEmpty()) {
+                    continue;
+                } else if (section.equals("EDUCATION")) {
+                    resume.addSection(parseEducation(line));
+                } else if (section.equals("EXPERIENCE")) {
+                    // header line "role | company | duration", then an indented description line
+                    if (line.startsWith("  ") && pendingExperience != null) {
+                        String[] parts = splitFields(pendingExperience, 3);
+                        resume.addSection(new Experience(parts[0], parts[1], parts[2], line.trim()));
+                        pendingExperience = null;
+                    } else {
+                        pendingExperience = line;
+                    }
+                } else if (section.equals("SKILL")) {
+                    resume.addSection(new Skill(line.startsWith("- ") ? line.substring(2) : line));
+                }
+            }
+        }
+
+        if (!name.isEmpty()) {
+            resume.setPersonalInfo(new PersonalInfo(name, contact, email));
+        }
+        return resume;
+    }
+
+    private static Education parseEducation(String line) throws IOException {
+        String[] parts = splitFields(line, 3);
+        String yearText = parts[2];
+        String honors = "";
+        int paren = yearText.indexOf(" (");
+        if (paren >= 0 && yearText.endsWith(")")) {
+            honors = yearText.substring(paren + 2, yearText.length() - 1);
+            yearText = yearText.substring(0, paren);
+        }
+        try {
+            return new AcademicEducation(parts[0], parts[1], Integer.parseInt(yearText.trim()), honors);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid year in education entry: " + line);
+        }
+    }
+
+    private static String[] splitFields(String line, int count) throws IOException {
+        String[] parts = line.split(" \\| ", count);
+        if (parts.length != count) {
+            throw new IOException("Malformed entry: " + line);
+        }
+        return parts;
+    }
+}
+
+// analyzes a folder of saved resumes in separate worker JVMs, so one process never holds the
+// whole corpus; workers talk to this coordinator over their stdin/stdout pipes
+class BatchAnalyzer {
+    private static final int MAX_SHARD_SIZE = 16;
+    private static final int MAX_SHARD_ATTEMPTS = 3;
+    private static final int MAX_WORKER_RESTARTS = 3;
+    private static final int QUIT = -1;
+
+    // what a worker sends back for one shard
+    private static class ShardResult {
+        final StringBuilder text = new StringBuilder();
+        int scoreTotal;
+        int analyzed;
+        int failed;
+    }
+
+    private final int workers;
+    private List<List<File>> shards;
+    private PrintStream report;
+
+    // shared scheduling state, guarded by "this"
+    private int nextShard;
+    private int nextToPrint;
+    private int completed;
+    private int[] attempts;
+    private boolean[] done;
+    private final ArrayDeque<Integer> retryQueue = new ArrayDeque<>();
+    private final TreeMap<Integer, Integer> running = new TreeMap<>();  // shard id -> workers running it
+    private final Map<Integer, List<Process>> processes = new HashMap<>(); // shard id -> worker JVMs on it
+    private final Map<Integer, ShardResult> finished = new HashMap<>();   // done but not printed yet
+    private int scoreTotal, analyzed, failed;
+
+    public BatchAnalyzer(int workers) {
+        this.workers = Math.max(1, workers);
+    }
+
+    public void run(List<File> files, PrintStream report) throws InterruptedException {
+        this.report = report;
+        int shardSize = Math.max(1, Math.min(MAX_SHARD_SIZE, files.size() / (workers * 4)));
+        shards = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += shardSize) {
+            shards.add(files.subList(i, Math.min(files.size(), i + shardSize)));
+        }
+        attempts = new int[shards.size()];
+        done = new boolean[shards.size()];
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            Thread t = new Thread(this::driveWorker, "batch-worker-" + i);
+            t.start();
+            threads.add(t);
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        // every worker gave up; report whatever is left as failed
+        synchronized (this) {
+            for (int id = 0; id < shards.size(); id++) {
+                if (!done[id]) {
+                    giveUp(id, "no worker process left to run it");
+                }
+            }
+        }
+
+        report.println("============================= BATCH SUMMARY =============================");
+        report.println("Resumes analyzed: " + analyzed + "/" + files.size());
+        if (failed > 0) {
+            report.println("Failed: " + failed);
+        }
+        if (analyzed > 0) {
+            report.printf("Average score: %.2f/%d%n", (double) scoreTotal / analyzed, ResumeAnalyzer.TOTAL_CHECKS);
+        }
+        report.flush();
+    }
+
+    // one coordinator thread per worker JVM: hand it shards until there are none left
+    private void driveWorker() {
+        Process process = null;
+        DataOutputStream toWorker = null;
+        DataInputStream fromWorker = null;
+        int restarts = 0;
+        try {
+            Integer id;
+            while ((id = nextAssignment()) != null) {
+                try {
+                    if (process == null) {
+                        process = startWorker();
+                        toWorker = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+                        fromWorker = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+                    }
+                    // a stolen copy may have finished it while this worker was starting
+                    if (!attach(id, process)) {
+                        continue;
+                    }
+                    List<File> shard = shards.get(id);
+                    toWorker.writeInt(id);
+                    toWorker.writeInt(shard.size());
+                    for (File file : shard) {
+                        writeString(toWorker, file.getPath());
+                    }
+                    toWorker.flush();
+                    complete(id, readResult(fromWorker, id, shard.size()), process);
+                } catch (IOException e) {
+                    // the worker died, sent garbage, or was stopped because another copy of its
+                    // shard won; retry the shard if needed and start a fresh worker
+                    boolean lostRace = fail(id, e.getMessage(), process);
+                    if (process != null) {
+                        process.destroy();
+                    }
+                    process = null;
+                    if (!lostRace && ++restarts > MAX_WORKER_RESTARTS) {
+                        return;
+                    }
+                }
+            }
+            if (process != null) {
+                toWorker.writeInt(QUIT);
+                toWorker.flush();
+                process.waitFor();
+            }
+        } catch (IOException | InterruptedException e) {
+            if (process != null) {
+                process.destroy();
+            }
+        }
+    }
+
+    private Process startWorker() throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder pb = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+            "ResumeBuilderApp", "--worker");
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return pb.start();
+    }
+
+    private ShardResult readResult(DataInputStream in, int id, int fileCount) throws IOException {
+        if (in.readInt() != id || in.readInt() != fileCount) {
+            throw new IOException("Worker answered for the wrong shard");
+        }
+        ShardResult result = new ShardResult();
+        for (int i = 0; i < fileCount; i++) {
+            String name = readString(in);
+            boolean ok = in.readBoolean();
+            int score = in.readInt();
+            String text = readString(in);
+            result.text.append("=== ").append(name).append(" ===").append(System.lineSeparator());
+            if (ok) {
+                result.text.append(text);
+                result.scoreTotal += score;
+                result.analyzed++;
+            } else {
+                result.text.append("Could not analyze file: ").append(text).append(System.lineSeparator());
+                result.failed++;
+            }
+            result.text.append(System.lineSeparator());
+        }
+        return result;
+    }
+
+    // next shard for an idle worker, or null when everything is done
+    private synchronized Integer nextAssignment() throws InterruptedException {
+        while (completed < shards.size()) {
+            Integer id = retryQueue.poll();
+            // only run ahead of the report by a few shards, so finished results don't pile up
+            if (id == null && nextShard < shards.size() && nextShard < nextToPrint + workers * 2) {
+                id = nextShard++;
+            }
+            // work stealing: nothing new to hand out, so also run a straggling shard here;
+            // whichever copy finishes first wins
+            if (id == null) {
+                for (Map.Entry<Integer, Integer> e : running.entrySet()) {
+                    if (e.getValue() == 1 && !done[e.getKey()]) {
+                        id = e.getKey();
+                        break;
+                    }
+                }
+            }
+            if (id != null) {
+                running.merge(id, 1, Integer::sum);
+                return id;
+            }
+            wait();
+        }
+        return null;
+    }
+
+    // records which worker process is running a shard; false if the shard is already done
+    private synchronized boolean attach(int id, Process process) {
+        if (done[id]) {
+            stopRunning(id);
+            notifyAll();
+            return false;
+        }
+        processes.computeIfAbsent(id, k -> new ArrayList<>()).add(process);
+        return true;
+    }
+
+    private synchronized void complete(int id, ShardResult result, Process process) {
+        stopRunning(id);
+        detach(id, process);
+        if (!done[id]) {
+            done[id] = true;
+            completed++;
+            finished.put(id, result);
+            printFinished();
+            // stop the losing copies; their drivers see the broken pipe and start fresh workers
+            List<Process> losers = processes.remove(id);
+            if (losers != null) {
+                for (Process loser : losers) {
+                    loser.destroyForcibly();
+                }
+            }
+        }
+        notifyAll();
+    }
+
+    // returns true if the shard was already finished by another worker
+    private synchronized boolean fail(int id, String reason, Process process) {
+        stopRunning(id);
+        detach(id, process);
+        if (done[id]) {
+            notifyAll();
+            return true;
+        }
+        // a stolen copy may still finish it
+        if (!running.containsKey(id)) {
+            if (++attempts[id] < MAX_SHARD_ATTEMPTS) {
+                retryQueue.add(id);
+            } else {
+                giveUp(id, reason);
+            }
+        }
+        notifyAll();
+        return false;
+    }
+
+    private void detach(int id, Process process) {
+        List<Process> list = processes.get(id);
+        if (list != null) {
+            list.remove(process);
+            if (list.isEmpty()) {
+                processes.remove(id);
+            }
+        }
+    }
+
+    private void giveUp(int id, String reason) {
+        ShardResult result = new ShardResult();
+        for (File file : shards.get(id)) {
+            result.text.append("=== ").append(file.getName()).append(" ===").append(System.lineSeparator())
+                .append("Could not analyze file: ").append(reason).append(System.lineSeparator())
+                .append(System.lineSeparator());
+            result.failed++;
+        }
+        done[id] = true;
+        completed++;
+        finished.put(id, result);
+        printFinished();
+    }
+
+    private void stopRunning(int id) {
+        running.computeIfPresent(id, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    // print in input order so the report is the same no matter which worker finished first,
+    // and drop each result as soon as it is printed
+    private void printFinished() {
+        ShardResult result;
+        while ((result = finished.remove(nextToPrint)) != null) {
+            report.print(result.text);
+            scoreTotal += result.scoreTotal;
+            analyzed += result.analyzed;
+            failed += result.failed;
+            nextToPrint++;
+        }
+        report.flush();
+    }
+
+    // worker side (java ResumeBuilderApp --worker): read shards from stdin, answer on stdout
+    public static void runWorker(InputStream stdin, OutputStream stdout) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stdin));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stdout));
+        ResumeAnalyzer analyzer = new ResumeAnalyzer();
+        int id;
+        while ((id = in.readInt()) != QUIT) {
+            int count = in.readInt();
+            out.writeInt(id);
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                File file = new File(readString(in));
+                writeString(out, file.getName());
+                try {
+                    // a parse error is the file's fault, not the worker's, so it is reported rather than retried
+                    Resume resume = ResumeTextParser.parse(file);
+                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                    PrintStream ps = new PrintStream(baos);
+                    int score = analyzer.analyze(resume, ps);
+                    ps.flush();
+                    out.writeBoolean(true);
+                    out.writeInt(score);
+                    writeString(out, baos.toString());
+                } catch (IOException e) {
+                    out.writeBoolean(false);
+                    out.writeInt(0);
+                    writeString(out, String.valueOf(e.getMessage()));
+                }
+            }
+            out.flush();
+        }
+    }
+
+    // length-prefixed UTF-8, since writeUTF is limited to 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
+
+// builds an anonymized copy of a resume for sharing with external reviewers
+class ResumeRedactor {
+    static final String MASK = "[REDACTED]";
+
+    // one combined pattern so each description is scanned once; phone candidates are
+    // checked for phone shape and against the same rules as the Contact field before being masked
+    private static final Pattern PII_PATTERN = Pattern.compile(
+        "(?<email>[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+)"
+        + "|(?<url>(https?://|www\\.)\\S*[^\\s.,;:!?)])"
+        // bare host.tld/path, e.g. linkedin.com/in/jane-doe; the path is required so
+        // technology names like ASP.NET or Socket.io are left alone
+        + "|(?<domain>(?<![\\w@.-])[a-z0-9-]+(\\.[a-z0-9-]+)*\\.[a-z]{2,}/\\S*[^\\s.,;:!?)])"
+        + "|(?<phone>\\+?[\\d(][\\d\\s\\-()]{5,}\\d)",
+        Pattern.CASE_INSENSITIVE);
+    // "2019 - 2023" passes the contact number rules but is a date range, not a phone
+    private static final Pattern YEAR_RANGE = Pattern.compile("(19|20)\\d\\d\\s*-\\s*(19|20)\\d\\d");
+    // "1 000 000" is a count written with space thousands separators
+    private static final Pattern THOUSANDS = Pattern.compile("\\d{1,3}( \\d{3})+");
+    // "555 1234", a local number without an area code
+    private static final Pattern LOCAL_NUMBER = Pattern.compile("\\d{3}\\s\\d{4}");
+
+    private final Mac hmac;
+
+    // the key keeps pseudonyms stable across runs without letting anyone who has a
+    // candidate list recompute them
+    public ResumeRedactor(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("A pseudonym key is required.");
+        }
+        try {
+            hmac = Mac.getInstance("HmacSHA256");
+            hmac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            // every Java platform is required to provide HmacSHA256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Resume redact(Resume resume) {
+        Resume copy = new Resume();
+        PersonalInfo pi = resume.getPersonalInfo();
+        if (pi != null) {
+            copy.setPersonalInfo(new PersonalInfo(pseudonym(pi), MASK, MASK));
+        }
+        for (ResumeSection s : resume.getSections()) {
+            if (s instanceof Experience) {
+                Experience ex = (Experience) s;
+                copy.addSection(new Experience(ex.getRole(), ex.getCompany(), ex.getDuration(),
+                    redactText(ex.getDescription())));
+            } else {
+                copy.addSection(s);
+            }
+        }
+        return copy;
+    }
+
+    public static String redactText(String text) {
+        Matcher m = PII_PATTERN.matcher(text);
+        StringBuilder sb = null;
+        int last = 0;
+        while (m.find()) {
+            if (m.group("phone") != null && !isPhoneNumber(m.group())) {
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(text.length());
+            }
+            sb.append(text, last, m.start()).append(MASK);
+            last = m.end();
+        }
+        if (sb == null) {
+            return text;
+        }
+        return sb.append(text, last, text.length()).toString();
+    }
+
+    // anything with 10+ digits is masked, since a missed phone is worse than a masked count;
+    // shorter runs like "1000000 orders" or "ISO 9001 2015" are only masked if they look like
+    // a phone: a leading +, ( or 0, a hyphen, "555 1234", or three or more digit groups
+    static boolean isPhoneNumber(String candidate) {
+        if (!ResumeBuilderApp.isValidContactNumber(candidate) || YEAR_RANGE.matcher(candidate).matches()
+                || THOUSANDS.matcher(candidate).matches()) {
+            return false;
+        }
+        if (candidate.replaceAll("\\D", "").length() >= 10 || LOCAL_NUMBER.matcher(candidate).matches()) {
+            return true;
+        }
+        char first = candidate.charAt(0);
+        if (first == '+' || first == '(' || first == '0' || candidate.indexOf('-') >= 0) {
+            return true;
+        }
+        return candidate.trim().split("\\s+").length >= 3;
+    }
+
+    // same person always gets the same id, so reviewers can refer back to a candidate
+    String pseudonym(PersonalInfo pi) {
+        String source = (pi.getName() + "|" + pi.getEmail()).trim().toLowerCase();
+        byte[] hash;
+        // Mac instances are not thread-safe
+        synchronized (hmac) {
+            hash = hmac.doFinal(source.getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder sb = new StringBuilder("Candidate-");
+        for (int i = 0; i < 10; i++) {
+            sb.append(String.format("%02X", hash[i]));
+        }
+        return sb.toString();
+    }
+
+    // anonymizes every saved resume in parallel, writing one file per input into outDir
+    public void redactFolder(List<File> files, File outDir, int workers) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, workers));
+        List<Future<File>> results = new ArrayList<>();
+        // the same person can appear in several inputs of one run, so those get -2, -3, ...;
+        // files left over from an earlier run into the same folder are simply overwritten
+        Map<String, Integer> namesUsed = new ConcurrentHashMap<>();
+        for (File file : files) {
+            results.add(pool.submit(() -> {
+                Resume redacted = redact(ResumeTextParser.parse(file));
+                PersonalInfo pi = redacted.getPersonalInfo();
+                String baseName = pi != null ? pi.getName() : "Candidate";
+                int n = namesUsed.merge(baseName, 1, Integer::sum);
+                File outFile = new File(outDir, baseName + (n == 1 ? "" : "-" + n) + ".txt");
+                try (Writer writer = Files.newBufferedWriter(outFile.toPath(), StandardCharsets.UTF_8)) {
+                    writer.write(redacted.getFormattedResume());
+                }
+                return outFile;
+            }));
+        }
+        pool.shutdown();
+
+        int written = 0;
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                System.out.println(files.get(i).getName() + " -> " + results.get(i).get().getName());
+                written++;
+            } catch (ExecutionException e) {
+                System.out.println(files.get(i).getName() + " -> could not redact: " + e.getCause().getMessage());
+            }
+        }
+        System.out.println("Anonymized " + written + "/" + files.size() + " resumes into " + outDir.getPath());
+    }
+}
+
+// writes a value into the output with the escaping a format needs
+interface Escaper {
+    void write(Writer out, String value) throws IOException;
+}
+
+// a template compiled once into a flat instruction list; supports {{field}} and
+// {{#field}}...{{/field}} (the block is skipped when the field is empty)
+class CompiledTemplate<T> {
+    private static final int LITERAL = 0;
+    private static final int FIELD = 1;
+    private static final int SKIP_IF_EMPTY = 2;
+
+    private static class Instruction<T> {
+        final int op;
+        final String literal;
+        final Function<T, String> field;
+        int jump;  // for SKIP_IF_EMPTY: index of the first instruction after the block
+
+        Instruction(int op, String literal, Function<T, String> field) {
+            this.op = op;
+            this.literal = literal;
+            this.field = field;
+        }
+    }
+
+    private final List<Instruction<T>> code = new ArrayList<>();
+
+    public CompiledTemplate(String source, Map<String, Function<T, String>> fields) {
+        ArrayDeque<String> openBlocks = new ArrayDeque<>();
+        ArrayDeque<Instruction<T>> openJumps = new ArrayDeque<>();
+        int pos = 0;
+        while (pos < source.length()) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                code.add(new Instruction<>(LITERAL, source.substring(pos), null));
+                break;
+            }
+            if (open > pos) {
+                code.add(new Instruction<>(LITERAL, source.substring(pos, open), null));
+            }
+            int close = source.indexOf("}}", open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed {{ in template: " + source);
+            }
+            String tag = source.substring(open + 2, close).trim();
+            if (tag.startsWith("#")) {
+                Instruction<T> skip = new Instruction<>(SKIP_IF_EMPTY, null, lookup(fields, tag.substring(1)));
+                code.add(skip);
+                openBlocks.push(tag.substring(1));
+                openJumps.push(skip);
+            } else if (tag.startsWith("/")) {
+                if (openBlocks.isEmpty() || !openBlocks.pop().equals(tag.substring(1))) {
+                    throw new IllegalArgumentException("Unmatched {{" + tag + "}} in template: " + source);
+                }
+                openJumps.pop().jump = code.size();
+            } else {
+                code.add(new Instruction<>(FIELD, null, lookup(fields, tag)));
+            }
+            pos = close + 2;
+        }
+        if (!openBlocks.isEmpty()) {
+            throw new IllegalArgumentException("Unclosed {{#" + openBlocks.peek() + "}} in template: " + source);
+        }
+    }
+
+    private static <T> Function<T, String> lookup(Map<String, Function<T, String>> fields, String name) {
+        Function<T, String> field = fields.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown template field: " + name);
+        }
+        return field;
+    }
+
+    public void render(T source, Writer out, Escaper escaper) throws IOException {
+        for (int pc = 0; pc < code.size(); pc++) {
+            Instruction<T> ins = code.get(pc);
+            if (ins.op == LITERAL) {
+                out.write(ins.literal);
+            } else if (ins.op == FIELD) {
+                escaper.write(out, valueOf(ins.field, source));
+            } else if (valueOf(ins.field, source).isEmpty()) {
+                pc = ins.jump - 1;
+            }
+        }
+    }
+
+    private static <T> String valueOf(Function<T, String> field, T source) {
+        if (source == null) {
+            return "";
+        }
+        String value = field.apply(source);
+        return value == null ? "" : value;
+    }
+}
+
+// output formats supported by ResumeExporter
+enum ExportFormat {
+    MARKDOWN("md"), HTML("html"), JSON("json");
+
+    final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+}
+
+// renders resumes as Markdown, HTML or JSON straight into a Writer
+class ResumeExporter {
+    private static final Map<String, Function<PersonalInfo, String>> PERSONAL_FIELDS = new HashMap<>();
+    private static final Map<String, Function<String, String>> TITLE_FIELDS = new HashMap<>();
+    private static final Map<String, Function<ResumeSection, String>> SECTION_FIELDS = new HashMap<>();
+
+    static {
+        PERSONAL_FIELDS.put("name", PersonalInfo::getName);
+        PERSONAL_FIELDS.put("contact", PersonalInfo::getContact);
+        PERSONAL_FIELDS.put("email", PersonalInfo::getEmail);
+
+        TITLE_FIELDS.put("title", title -> title);
+
+        SECTION_FIELDS.put("text", ResumeSection::toString);
+        SECTION_FIELDS.put("degree", s -> ((Education) s).getDegree());
+        SECTION_FIELDS.put("institution", s -> ((Education) s).getInstitution());
+        SECTION_FIELDS.put("year", s -> Integer.toString(((Education) s).getYearOfGraduation()));
+        SECTION_FIELDS.put("honors", s -> s instanceof AcademicEducation ? ((AcademicEducation) s).getHonors() : "");
+        SECTION_FIELDS.put("role", s -> ((Experience) s).getRole());
+        SECTION_FIELDS.put("company", s -> ((Experience) s).getCompany());
+        SECTION_FIELDS.put("duration", s -> ((Experience) s).getDuration());
+        SECTION_FIELDS.put("description", s -> ((Experience) s).getDescription());
+        SECTION_FIELDS.put("name", s -> ((Skill) s).getName());
+    }
+
+    // templates are compiled once per format and shared, since compiled templates are read-only
+    private static final Map<ExportFormat, ResumeExporter> EXPORTERS = new EnumMap<>(ExportFormat.class);
+
+    static {
+        EXPORTERS.put(ExportFormat.MARKDOWN, new ResumeExporter(ExportFormat.MARKDOWN, ResumeExporter::escapeMarkdown,
+            "", "", "", "\n---\n\n", "",
+            "{{#name}}# {{name}}\n\n{{contact}} | {{email}}\n\n{{/name}}",
+            "## {{title}}\n\n", "", "\n", "",
+            "- **{{degree}}**, {{institution}} ({{year}}){{#honors}}, {{honors}}{{/honors}}\n",
+            "- **{{role}}**, {{company}} ({{duration}})  \n  {{description}}\n",
+            "- {{name}}\n",
+            "- {{text}}\n",
+            ""));
+        EXPORTERS.put(ExportFormat.HTML, new ResumeExporter(ExportFormat.HTML, ResumeExporter::escapeHtml,
+            "<!DOCTYPE html>\n<html>\n<head><meta charset=\"UTF-8\"><title>Resume</title></head>\n<body>\n",
+            "</body>\n</html>\n",
+            "<!DOCTYPE html>\n<html>\n<head><meta charset=\"UTF-8\"><title>Resumes</title></head>\n<body>\n",
+            "<hr>\n",
+            "</body>\n</html>\n",
+            "<article>\n{{#name}}<h1>{{name}}</h1>\n<p>{{contact}} | {{email}}</p>\n{{/name}}",
+            "<h2>{{title}}</h2>\n<ul>\n", "", "</ul>\n", "",
+            "<li><strong>{{degree}}</strong>, {{institution}} ({{year}}){{#honors}}, {{honors}}{{/honors}}</li>\n",
+            "<li><strong>{{role}}</strong>, {{company}} ({{duration}})<br>{{description}}</li>\n",
+            "<li>{{name}}</li>\n",
+            "<li>{{text}}</li>\n",
+            "</article>\n"));
+        EXPORTERS.put(ExportFormat.JSON, new ResumeExporter(ExportFormat.JSON, ResumeExporter::escapeJson,
+            "", "\n", "[\n", ",\n", "\n]\n",
+            "{\"name\": \"{{name}}\", \"contact\": \"{{contact}}\", \"email\": \"{{email}}\", \"sections\": {",
+            "\"{{title}}\": [", ", ", "]", ", ",
+            "{\"degree\": \"{{degree}}\", \"institution\": \"{{institution}}\", \"year\": {{year}}, \"honors\": \"{{honors}}\"}",
+            "{\"role\": \"{{role}}\", \"company\": \"{{company}}\", \"duration\": \"{{duration}}\", \"description\": \"{{description}}\"}",
+            "\"{{name}}\"",
+            "\"{{text}}\"",
+            "}}"));
+    }
+
+    public static ResumeExporter forFormat(ExportFormat format) {
+        return EXPORTERS.get(format);
+    }
+
+    private final ExportFormat format;
+    private final Escaper escaper;
+    private final String fileStart, fileEnd;
+    private final String combinedStart, combinedSeparator, combinedEnd;
+    private final CompiledTemplate<PersonalInfo> header;
+    private final CompiledTemplate<String> sectionStart;
+    private final String itemSeparator, sectionEnd, sectionSeparator;
+    private final Map<String, CompiledTemplate<ResumeSection>> itemTemplates = new HashMap<>();
+    private final CompiledTemplate<ResumeSection> genericItem;
+    private final String footer;
+
+    private ResumeExporter(ExportFormat format, Escaper escaper,
+                           String fileStart, String fileEnd,
+                           String combinedStart, String combinedSeparator, String combinedEnd,
+                           String header, String sectionStart, String itemSeparator,
+                           String sectionEnd, String sectionSeparator,
+                           String educationItem, String experienceItem, String skillItem,
+                           String genericItem, String footer) {
+        this.format = format;
+        this.escaper = escaper;
+        this.fileStart = fileStart;
+        this.fileEnd = fileEnd;
+        this.combinedStart = combinedStart;
+        this.combinedSeparator = combinedSeparator;
+        this.combinedEnd = combinedEnd;
+        this.header = new CompiledTemplate<>(header, PERSONAL_FIELDS);
+        this.sectionStart = new CompiledTemplate<>(sectionStart, TITLE_FIELDS);
+        this.itemSeparator = itemSeparator;
+        this.sectionEnd = sectionEnd;
+        this.sectionSeparator = sectionSeparator;
+        this.itemTemplates.put("Education", new CompiledTemplate<>(educationItem, SECTION_FIELDS));
+        this.itemTemplates.put("Experience", new CompiledTemplate<>(experienceItem, SECTION_FIELDS));
+        this.itemTemplates.put("Skill", new CompiledTemplate<>(skillItem, SECTION_FIELDS));
+        this.genericItem = new CompiledTemplate<>(genericItem, SECTION_FIELDS);
+        this.footer = footer;
+    }
+
+    // a complete document for one resume
+    public void export(Resume resume, Writer out) throws IOException {
+        out.write(fileStart);
+        render(resume, out);
+        out.write(fileEnd);
+        out.flush();
+    }
+
+    public void export(Resume resume, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1))) {
+            export(resume, out);
+        }
+    }
+
+    private void render(Resume resume, Writer out) throws IOException {
+        header.render(resume.getPersonalInfo(), out, escaper);
+
+        // group sections by type, same order as getFormattedResume()
+        Map<String, List<ResumeSection>> grouped = new LinkedHashMap<>();
+        for (ResumeSection s : resume.getSections()) {
+            grouped.computeIfAbsent(s.getTitle(), k -> new ArrayList<>()).add(s);
+        }
+
+        boolean firstSection = true;
+        for (Map.Entry<String, List<ResumeSection>> group : grouped.entrySet()) {
+            if (!firstSection) {
+                out.write(sectionSeparator);
+            }
+            firstSection = false;
+            sectionStart.render(group.getKey(), out, escaper);
+            CompiledTemplate<ResumeSection> item = itemTemplates.getOrDefault(group.getKey(), genericItem);
+            boolean firstItem = true;
+            for (ResumeSection s : group.getValue()) {
+                if (!firstItem) {
+                    out.write(itemSeparator);
+                }
+                firstItem = false;
+                item.render(s, out, escaper);
+            }
+            out.write(sectionEnd);
+        }
+
+        out.write(footer);
+    }
+
+    // exports a folder of saved resumes: one file each into outDir, or all of them into combinedFile
+    public void exportAll(List<File> files, File outDir, File combinedFile, int workers) throws InterruptedException, IOException {
+        // the combined file is opened before any work starts, so a bad path fails before the pool exists;
+        // it is written in input order as each parsed resume becomes available
+        Writer combined = combinedFile == null ? null
+            : new BufferedWriter(Channels.newWriter(FileChannel.open(combinedFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), StandardCharsets.UTF_8.newEncoder(), -1));
+
+        int poolSize = Math.max(1, workers);
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+        int exported = 0;
+        try {
+            // only a few files are queued or waiting for the writer at a time, so memory stays flat
+            // however large the corpus is
+            int window = poolSize * 2;
+            ArrayDeque<Future<Resume>> inFlight = new ArrayDeque<>();
+            int submitted = 0;
+            for (; submitted < Math.min(window, files.size()); submitted++) {
+                inFlight.add(pool.submit(exportTask(files.get(submitted), outDir)));
+            }
+
+            if (combined != null) {
+                combined.write(combinedStart);
+            }
+            for (int i = 0; i < files.size(); i++) {
+                Future<Resume> next = inFlight.poll();
+                if (submitted < files.size()) {
+                    inFlight.add(pool.submit(exportTask(files.get(submitted), outDir)));
+                    submitted++;
+                }
+                try {
+                    Resume resume = next.get();
+                    if (combined != null) {
+                        if (exported > 0) {
+                            combined.write(combinedSeparator);
+                        }
+                        render(resume, combined);
+                    }
+                    exported++;
+                } catch (ExecutionException e) {
+                    System.out.println(files.get(i).getName() + " -> could not export: " + e.getCause().getMessage());
+                }
+            }
+            if (combined != null) {
+                combined.write(combinedEnd);
+            }
+        } finally {
+            pool.shutdownNow();
+            if (combined != null) {
+                combined.close();
+            }
+        }
+        System.out.println("Exported " + exported + "/" + files.size() + " resumes.");
+    }
+
+    // per-file mode writes the file and returns null so the parsed resume can be dropped right away
+    private Callable<Resume> exportTask(File file, File outDir) {
+        return () -> {
+            Resume resume = ResumeTextParser.parse(file);
+            if (outDir == null) {
+                return resume;
+            }
+            String base = file.getName().replaceFirst("\\.txt$", "");
+            export(resume, new File(outDir, base + "." + format.extension).toPath());
+            return null;
+        };
+    }
+
+    static void escapeMarkdown(Writer out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ("\\`*_[]#<>|".indexOf(c) >= 0) {
+                out.write('\\');
+            }
+            out.write(c);
+        }
+    }
+
+    static void escapeHtml(Writer out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&': out.write("&amp;"); break;
+                case '<': out.write("&lt;"); break;
+                case '>': out.write("&gt;"); break;
+                case '"': out.write("&quot;"); break;
+                case '\'': out.write("&#39;"); break;
+                default: out.write(c);
+            }
+        }
+    }
+
+    static void escapeJson(Writer out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.write("\\\""); break;
+                case '\\': out.write("\\\\"); break;
+                case '\n': out.write("\\n"); break;
+                case '\r': out.write("\\r"); break;
+                case '\t': out.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
     }
 }
 
@@ -301,8 +1496,10 @@ public class ResumeBuilderApp extends JFrame {
     private JTextField roleField, companyField, durationField, descriptionField;
     private JTextField skillField;
     private JTextArea resumePreview;
+    private JLabel skillHintLabel;
     private DefaultListModel<String> educationListModel, experienceListModel, skillListModel;
     private JList<String> educationList, experienceList, skillList;
+    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
 
     public ResumeBuilderApp() {
         resume = new Resume();
@@ -347,6 +1544,8 @@ public class ResumeBuilderApp extends JFrame {
         JPanel leftButtons = new JPanel(new FlowLayout(FlowLayout.LEFT));
         JButton generateButton = new JButton("Generate Resume");
         JButton saveButton = new JButton("Save to TXT");
+        JButton saveAnonymizedButton = new JButton("Save Anonymized TXT");
+        JButton exportButton = new JButton("Export...");
         JButton analyzeButton = new JButton("Analyze Resume");
         JButton clearButton = new JButton("Clear All");
         
@@ -355,13 +1554,17 @@ public class ResumeBuilderApp extends JFrame {
         JButton exitButton = new JButton("Exit");
 
         generateButton.addActionListener(e -> generateResume());
-        saveButton.addActionListener(e -> saveToTXT());
+        saveButton.addActionListener(e -> saveToTXT(false));
+        saveAnonymizedButton.addActionListener(e -> saveToTXT(true));
+        exportButton.addActionListener(e -> exportResume());
         analyzeButton.addActionListener(e -> analyzeResume());
         clearButton.addActionListener(e -> clearAllFields());
         exitButton.addActionListener(e -> exitApplication());
 
         leftButtons.add(generateButton);
         leftButtons.add(saveButton);
+        leftButtons.add(saveAnonymizedButton);
+        leftButtons.add(exportButton);
         leftButtons.add(analyzeButton);
         leftButtons.add(clearButton);
         rightButtons.add(exitButton);
@@ -506,6 +1709,15 @@ public class ResumeBuilderApp extends JFrame {
         JButton addSkillButton = new JButton("Add Skill");
         addSkillButton.addActionListener(e -> addSkill());
         inputPanel.add(addSkillButton);
+        skillHintLabel = new JLabel(" ");
+        inputPanel.add(skillHintLabel);
+
+        // show the canonical name or a typo suggestion while the user types
+        skillField.getDocument().addDocumentListener(new DocumentListener() {
+            public void insertUpdate(DocumentEvent e) { updateSkillHint(); }
+            public void removeUpdate(DocumentEvent e) { updateSkillHint(); }
+            public void changedUpdate(DocumentEvent e) { updateSkillHint(); }
+        });
 
         panel.add(inputPanel, BorderLayout.NORTH);
 
@@ -517,6 +1729,17 @@ public class ResumeBuilderApp extends JFrame {
         return panel;
     }
 
+    private void updateSkillHint() {
+        String text = skillField.getText();
+        String canonical = skillNormalizer.canonical(text);
+        if (canonical != null && !canonical.equals(text.trim())) {
+            skillHintLabel.setText("Will be saved as: " + canonical);
+            return;
+        }
+        String suggestion = canonical == null ? skillNormalizer.suggest(text) : null;
+        skillHintLabel.setText(suggestion != null ? "Did you mean: " + suggestion + "?" : " ");
+    }
+
     // FINALS MODIFICATION - Create preview panel
     private JPanel createPreviewPanel() {
         JPanel panel = new JPanel(new BorderLayout());
@@ -596,6 +1819,31 @@ public class ResumeBuilderApp extends JFrame {
             return;
         }
 
+        // store the canonical name so "JS" and "JavaScript" count as one skill;
+        // typo matches are only used if the user confirms them
+        String canonical = skillNormalizer.canonical(skillName);
+        if (canonical != null) {
+            skillName = canonical;
+        } else {
+            String suggestion = skillNormalizer.suggest(skillName);
+            if (suggestion != null) {
+                int result = JOptionPane.showConfirmDialog(this,
+                    "Did you mean \"" + suggestion + "\"?\nChoose No to keep \"" + skillName + "\".",
+                    "Skill Suggestion",
+                    JOptionPane.YES_NO_OPTION);
+                if (result == JOptionPane.YES_OPTION) {
+                    skillName = suggestion;
+                }
+            }
+        }
+        for (ResumeSection s : resume.getSections()) {
+            if (s instanceof Skill && ((Skill) s).getName().equalsIgnoreCase(skillName)) {
+                JOptionPane.showMessageDialog(this, "Skill already added: " + skillName);
+                skillField.setText("");
+                return;
+            }
+        }
+
         Skill skill = new Skill(skillName);
         resume.addSection(skill);
         skillListModel.addElement("- " + skillName);
@@ -630,13 +1878,23 @@ public class ResumeBuilderApp extends JFrame {
     }
 
     // FINALS MODIFICATION - Save to TXT method
-    private void saveToTXT() {
+    // anonymized mode masks personal info and any contact details inside experience descriptions
+    private void saveToTXT(boolean anonymized) {
         try {
             generateResume(); // Ensure resume is updated
             JFileChooser fileChooser = new JFileChooser();
-            fileChooser.setSelectedFile(new File("resume.txt"));
+            fileChooser.setSelectedFile(new File(anonymized ? "resume-anonymized.txt" : "resume.txt"));
             if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-                String resumeText = resume.getFormattedResume();
+                Resume toSave = resume;
+                if (anonymized) {
+                    // same key as the --redact runs gives the same candidate id
+                    String key = JOptionPane.showInputDialog(this, "Enter the pseudonym key:");
+                    if (key == null || key.isEmpty()) {
+                        return;
+                    }
+                    toSave = new ResumeRedactor(key).redact(resume);
+                }
+                String resumeText = toSave.getFormattedResume();
                 try (PrintWriter writer = new PrintWriter(new FileWriter(fileChooser.getSelectedFile()))) {
                     writer.print(resumeText);
                 }
@@ -647,6 +1905,27 @@ public class ResumeBuilderApp extends JFrame {
         }
     }
 
+    // export the resume as Markdown, HTML or JSON
+    private void exportResume() {
+        ExportFormat[] formats = ExportFormat.values();
+        int choice = JOptionPane.showOptionDialog(this, "Choose an export format:", "Export Resume",
+            JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, formats, formats[0]);
+        if (choice < 0) {
+            return;
+        }
+        try {
+            generateResume(); // Ensure resume is updated
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setSelectedFile(new File("resume." + formats[choice].extension));
+            if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+                ResumeExporter.forFormat(formats[choice]).export(resume, fileChooser.getSelectedFile().toPath());
+                JOptionPane.showMessageDialog(this, "Resume exported successfully as " + formats[choice] + "!");
+            }
+        } catch (Exception e) {
+            JOptionPane.showMessageDialog(this, "Error exporting file: " + e.getMessage());
+        }
+    }
+
     // FINALS MODIFICATION - Analyze resume method
     private void analyzeResume() {
         // Check if personal info fields are filled
@@ -678,13 +1957,8 @@ public class ResumeBuilderApp extends JFrame {
         // Capture analyzer output and show in dialog
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PrintStream ps = new PrintStream(baos);
-        PrintStream old = System.out;
-        System.setOut(ps);
-        
-        analyzer.analyze(resume);
-        
-        System.out.flush();
-        System.setOut(old);
+        analyzer.analyze(resume, ps);
+        ps.flush();
         
         String analysis = baos.toString();
         JOptionPane.showMessageDialog(this, analysis, "Resume Analysis", JOptionPane.INFORMATION_MESSAGE);
@@ -734,7 +2008,7 @@ public class ResumeBuilderApp extends JFrame {
     }
 
     // FINALS MODIFICATION - Contact number validation method
-    private boolean isValidContactNumber(String contact) {
+    static boolean isValidContactNumber(String contact) {
         // Allow digits, spaces, hyphens, parentheses, and plus sign
         // Minimum 7 digits (for shortest valid phone numbers)
         String cleanContact = contact.replaceAll("[\\s\\-\\(\\)\\+]", "");
@@ -769,7 +2043,58 @@ public class ResumeBuilderApp extends JFrame {
         }
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException, IOException {
+        // worker process started by --batch; talks to the coordinator over stdin/stdout
+        if (args.length >= 1 && args[0].equals("--worker")) {
+            BatchAnalyzer.runWorker(System.in, System.out);
+            return;
+        }
+
+        // batch mode: java ResumeBuilderApp --batch <folder of saved .txt resumes> [worker processes]
+        if (args.length >= 2 && args[0].equals("--batch")) {
+            File[] files = new File(args[1]).listFiles((dir, fileName) -> fileName.endsWith(".txt"));
+            if (files == null) {
+                System.err.println("Not a folder: " + args[1]);
+                return;
+            }
+            Arrays.sort(files);
+            int workers = args.length >= 3 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            new BatchAnalyzer(workers).run(Arrays.asList(files), System.out);
+            return;
+        }
+
+        // redact mode: java ResumeBuilderApp --redact <input folder> <output folder> <pseudonym key> [workers]
+        if (args.length >= 4 && args[0].equals("--redact")) {
+            File[] files = new File(args[1]).listFiles((dir, fileName) -> fileName.endsWith(".txt"));
+            File outDir = new File(args[2]);
+            if (files == null || (!outDir.isDirectory() && !outDir.mkdirs())) {
+                System.err.println("Input and output must be folders: " + args[1] + ", " + args[2]);
+                return;
+            }
+            Arrays.sort(files);
+            int workers = args.length >= 5 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+            new ResumeRedactor(args[3]).redactFolder(Arrays.asList(files), outDir, workers);
+            return;
+        }
+
+        // export mode: java ResumeBuilderApp --export <markdown|html|json> <input folder> <output folder> [workers]
+        // or --export-combined with an output file instead of a folder to put every resume in one file
+        if (args.length >= 4 && (args[0].equals("--export") || args[0].equals("--export-combined"))) {
+            boolean combined = args[0].equals("--export-combined");
+            ExportFormat format = ExportFormat.valueOf(args[1].toUpperCase());
+            File[] files = new File(args[2]).listFiles((dir, fileName) -> fileName.endsWith(".txt"));
+            File output = new File(args[3]);
+            if (files == null || (!combined && !output.isDirectory() && !output.mkdirs())) {
+                System.err.println("Input must be a folder" + (combined ? "" : " and output a folder") + ": " + args[2]);
+                return;
+            }
+            Arrays.sort(files);
+            int workers = args.length >= 5 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+            ResumeExporter.forFormat(format).exportAll(Arrays.asList(files),
+                combined ? null : output, combined ? output : null, workers);
+            return;
+        }
+
         SwingUtilities.invokeLater(() -> {
             new ResumeBuilderApp().setVisible(true);
         });